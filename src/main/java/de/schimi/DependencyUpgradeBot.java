@@ -2,14 +2,51 @@ package de.schimi;
 
 import de.schimi.core.DefaultDependencyUpdateService;
 import de.schimi.core.DependencyUpdateService;
+import de.schimi.core.JsonLinesResultSink;
+import de.schimi.core.UpdateOptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
 
 /**
  * Main entry point for the dependency upgrade bot that supports multiple build systems.
+ * <p>
+ * Supported arguments:
+ * <ul>
+ *   <li>{@code --dry-run}: evaluate dependencies without writing {@code .updated} files</li>
+ *   <li>{@code --results=<file>}: stream one JSON line per resolved dependency and per processed
+ *       build file to the given file</li>
+ *   <li>{@code --time-budget=<seconds>}: cancel outstanding lookups after the given time and
+ *       write only the build files whose dependencies were fully resolved</li>
+ * </ul>
  */
 public class DependencyUpgradeBot {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        boolean dryRun = false;
+        Path resultsFile = null;
+        Instant deadline = null;
+        for (String arg : args) {
+            if (arg.equals("--dry-run")) {
+                dryRun = true;
+            } else if (arg.startsWith("--results=")) {
+                resultsFile = Path.of(arg.substring("--results=".length()));
+            } else if (arg.startsWith("--time-budget=")) {
+                deadline = Instant.now().plusSeconds(Long.parseLong(arg.substring("--time-budget=".length())));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
         DependencyUpdateService service = new DefaultDependencyUpdateService();
-        service.updateAllBuildFiles();
+        UpdateOptions options = UpdateOptions.defaults().withDryRun(dryRun).withDeadline(deadline);
+        if (resultsFile == null) {
+            service.updateAllBuildFiles(options);
+            return;
+        }
+        try (JsonLinesResultSink sink = new JsonLinesResultSink(resultsFile)) {
+            service.updateAllBuildFiles(options.withResultSink(sink));
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,10 +21,28 @@ public interface BuildFileProcessor {
     List<Path> findBuildFiles();
     
     /**
-     * Update dependencies in the specified build file.
+     * Find all dependency declarations in the specified build file that
+     * {@link #updateBuildFile(Path, UpdateOptions)} would look up.
      * @param buildFile path to the build file
+     * @return list of dependency declarations in file order
      */
-    void updateBuildFile(Path buildFile);
+    List<DependencyDeclaration> findDependencies(Path buildFile);
+    
+    /**
+     * Update dependencies in the specified build file using the default options.
+     * @param buildFile path to the build file
+     */
+    default void updateBuildFile(Path buildFile) {
+        updateBuildFile(buildFile, UpdateOptions.defaults());
+    }
+    
+    /**
+     * Update dependencies in the specified build file, reporting every evaluated
+     * dependency to the result sink of the given options.
+     * @param buildFile path to the build file
+     * @param options options for this run
+     */
+    void updateBuildFile(Path buildFile, UpdateOptions options);
     
     /**
      * Get the build system name this processor handles.
@@ -0,0 +1,21 @@
+package de.schimi.core;
+
+import java.time.Instant;
+
+/**
+ * Version checker whose lookups can be bounded by a run deadline.
+ */
+public interface DeadlineAwareVersionChecker extends VersionChecker {
+    
+    /**
+     * Find a newer minor version for the given dependency, giving up once the deadline has passed.
+     * Unlike {@link #findNewerMinorVersion(String, String, String)}, failures are not mapped to null.
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param currentVersion the current version
+     * @param deadline the instant after which the lookup is abandoned
+     * @return newer minor version if available, null otherwise
+     * @throws RuntimeException if the lookup fails or does not complete before the deadline
+     */
+    String findNewerMinorVersion(String group, String artifact, String currentVersion, Instant deadline);
+}
@@ -7,30 +7,163 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Default implementation of the dependency update service that supports multiple build systems.
+ * <p>
+ * A run first scans all build files for dependency declarations, then resolves their versions
+ * concurrently and updates each build file as soon as all of its dependencies are resolved.
+ * Each dependency result is reported as soon as its lookup completes, and each file result once
+ * the processor has written or skipped the file.
+ * Processors look versions up through {@link UpdateOptions#lookupVersion}, which only returns the
+ * versions resolved by the run, so updating a build file never performs a lookup of its own.
+ * If the run deadline passes, outstanding lookups are cancelled and build files that are not
+ * fully resolved are not updated; their unresolved dependencies and the files themselves are
+ * reported as deadline exceeded. If the calling thread is interrupted, outstanding lookups are
+ * cancelled the same way, no further build files are updated and the rest are reported as cancelled.
  */
 public class DefaultDependencyUpdateService implements DependencyUpdateService {
     
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDependencyUpdateService.class);
     
+    private static final int RESOLUTION_THREADS = 4;
+    
+    private final VersionChecker versionChecker;
     private final List<BuildFileProcessor> processors;
     
     public DefaultDependencyUpdateService() {
-        VersionChecker versionChecker = new MavenCentralVersionChecker();
+        this.versionChecker = new MavenCentralVersionChecker();
         this.processors = Arrays.asList(
             new GradleBuildFileProcessor(versionChecker),
             new MavenBuildFileProcessor(versionChecker)
         );
     }
     
+    /**
+     * Create a service that runs the given processors only.
+     * @param versionChecker the version checker used to resolve dependencies for all processors
+     * @param processors the build file processors to run, in order; their own version checkers are
+     *        not used during a run
+     */
+    public DefaultDependencyUpdateService(VersionChecker versionChecker, List<BuildFileProcessor> processors) {
+        this.versionChecker = versionChecker;
+        this.processors = List.copyOf(processors);
+    }
+    
     @Override
-    public void updateAllBuildFiles() {
-        LOG.info("Starting dependency update process for all supported build systems...");
+    public void updateAllBuildFiles(UpdateOptions options) {
+        LOG.info("Starting dependency update process for all supported build systems{}...",
+            options.isDryRun() ? " (dry run)" : "");
+        
+        // Scoped to this run, so every run looks its dependencies up again
+        ResolvedVersions resolvedVersions = new ResolvedVersions();
+        // Dependency results are reported as their lookups complete, so processors only report file results
+        ResultSink resultSink = options.getResultSink();
+        UpdateOptions fileOptions = options.withResolvedVersions(resolvedVersions).withResultSink(new ResultSink() {
+            @Override
+            public void accept(UpdateResult result) {
+            }
+            
+            @Override
+            public void acceptFile(FileResult result) {
+                resultSink.acceptFile(result);
+            }
+        });
+        
+        List<PendingFile> pendingFiles = scanBuildFiles();
+        Map<String, List<PendingFile>> filesByLookupKey = new HashMap<>();
+        List<DependencyDeclaration> declarations = new ArrayList<>();
+        BlockingQueue<PendingFile> resolvedFiles = new LinkedBlockingQueue<>();
+        for (PendingFile pendingFile : pendingFiles) {
+            declarations.addAll(pendingFile.declarations);
+            for (String lookupKey : pendingFile.lookupKeys()) {
+                filesByLookupKey.computeIfAbsent(lookupKey, key -> new ArrayList<>()).add(pendingFile);
+            }
+            if (pendingFile.unresolved.get() == 0) {
+                resolvedFiles.add(pendingFile);
+            }
+        }
+        
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, RESOLUTION_THREADS, resolvedVersions, (lookupKey, lookup) -> {
+            for (PendingFile pendingFile : filesByLookupKey.get(lookupKey)) {
+                reportResolved(pendingFile, lookupKey, lookup, resultSink);
+                if (pendingFile.unresolved.decrementAndGet() == 0) {
+                    resolvedFiles.add(pendingFile);
+                }
+            }
+        });
+        Instant deadline = options.getDeadline();
+        int lookups = scheduler.start(declarations, deadline);
         
+        int updatedFiles = 0;
+        boolean interrupted = false;
+        int cancelledLookups;
+        try {
+            while (updatedFiles < pendingFiles.size()) {
+                PendingFile pendingFile = deadline == null
+                    ? resolvedFiles.take()
+                    : resolvedFiles.poll(millisUntil(deadline), TimeUnit.MILLISECONDS);
+                if (pendingFile == null) {
+                    break;
+                }
+                updateBuildFile(pendingFile, fileOptions);
+                updatedFiles++;
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            Thread.currentThread().interrupt();
+        } finally {
+            cancelledLookups = scheduler.cancel();
+        }
+        
+        if (interrupted) {
+            // Writing files would fail on the interrupted thread, so files resolved in the meantime are not written
+            LOG.warn("Run interrupted, cancelled {} outstanding lookups.", cancelledLookups);
+        } else if (updatedFiles < pendingFiles.size()) {
+            LOG.warn("Run deadline reached, cancelled {} outstanding lookups.", cancelledLookups);
+            // Files resolved just before cancellation are complete and can still be written
+            for (PendingFile pendingFile = resolvedFiles.poll(); pendingFile != null; pendingFile = resolvedFiles.poll()) {
+                updateBuildFile(pendingFile, fileOptions);
+                updatedFiles++;
+            }
+        }
+        
+        boolean deadlineExceeded = !interrupted && updatedFiles < pendingFiles.size();
+        if (updatedFiles < pendingFiles.size()) {
+            for (PendingFile pendingFile : pendingFiles) {
+                if (!pendingFile.updated) {
+                    reportNotUpdated(pendingFile, resolvedVersions, resultSink, interrupted);
+                }
+            }
+            LOG.warn("Dependency update process {}: resolved {} of {} lookups, updated {} of {} build files.",
+                interrupted ? "interrupted" : "stopped at deadline",
+                scheduler.getResolvedCount(), lookups, updatedFiles, pendingFiles.size());
+        } else {
+            LOG.info("Dependency update process completed.");
+        }
+        resultSink.acceptSummary(new RunSummary(
+            scheduler.getResolvedCount(), lookups, updatedFiles, pendingFiles.size(), deadlineExceeded, interrupted));
+    }
+    
+    @Override
+    public List<BuildFileProcessor> getSupportedProcessors() {
+        return processors;
+    }
+    
+    private List<PendingFile> scanBuildFiles() {
+        List<PendingFile> pendingFiles = new ArrayList<>();
         for (BuildFileProcessor processor : processors) {
             LOG.info("Processing {} build files...", processor.getBuildSystemName());
             
@@ -41,16 +174,75 @@ public class DefaultDependencyUpdateService implements DependencyUpdateService {
             }
             
             for (Path buildFile : buildFiles) {
-                LOG.info("Updating {} build file: {}", processor.getBuildSystemName(), buildFile);
-                processor.updateBuildFile(buildFile);
+                pendingFiles.add(new PendingFile(processor, buildFile, processor.findDependencies(buildFile)));
             }
         }
-        
-        LOG.info("Dependency update process completed.");
+        return pendingFiles;
     }
     
-    @Override
-    public List<BuildFileProcessor> getSupportedProcessors() {
-        return processors;
+    private void updateBuildFile(PendingFile pendingFile, UpdateOptions options) {
+        LOG.info("Updating {} build file: {}", pendingFile.processor.getBuildSystemName(), pendingFile.buildFile);
+        pendingFile.processor.updateBuildFile(pendingFile.buildFile, options);
+        pendingFile.updated = true;
+    }
+    
+    private void reportResolved(PendingFile pendingFile, String lookupKey, VersionLookup lookup, ResultSink resultSink) {
+        String candidateVersion = lookup.getCandidateVersion();
+        for (DependencyDeclaration declaration : pendingFile.declarations) {
+            if (!declaration.getLookupKey().equals(lookupKey)) {
+                continue;
+            }
+            UpdateResult.Decision decision = candidateVersion != null && !candidateVersion.equals(declaration.getVersion())
+                ? UpdateResult.Decision.UPDATE
+                : UpdateResult.Decision.SKIP;
+            resultSink.accept(new UpdateResult(pendingFile.buildFile, declaration.getOffset(), declaration.getCoordinate(),
+                declaration.getVersion(), candidateVersion, decision, lookup.getLookupMillis()));
+        }
+    }
+    
+    private void reportNotUpdated(PendingFile pendingFile, ResolvedVersions resolvedVersions, ResultSink resultSink,
+                                  boolean interrupted) {
+        LOG.warn("Not updating {} build file {}: {} with {} dependencies unresolved.",
+            pendingFile.processor.getBuildSystemName(), pendingFile.buildFile,
+            interrupted ? "run interrupted" : "run deadline reached", pendingFile.unresolved.get());
+        // Resolved dependencies were already reported when their lookups completed
+        for (DependencyDeclaration declaration : pendingFile.declarations) {
+            if (resolvedVersions.get(declaration.getGroup(), declaration.getArtifact(), declaration.getVersion()) == null) {
+                resultSink.accept(new UpdateResult(pendingFile.buildFile, declaration.getOffset(), declaration.getCoordinate(),
+                    declaration.getVersion(), null,
+                    interrupted ? UpdateResult.Decision.CANCELLED : UpdateResult.Decision.DEADLINE_EXCEEDED, 0));
+            }
+        }
+        resultSink.acceptFile(new FileResult(pendingFile.buildFile,
+            interrupted ? FileResult.Status.CANCELLED : FileResult.Status.DEADLINE_EXCEEDED));
+    }
+    
+    private static long millisUntil(Instant deadline) {
+        return Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+    }
+    
+    /**
+     * A scanned build file waiting for its dependency lookups to complete.
+     */
+    private static class PendingFile {
+        private final BuildFileProcessor processor;
+        private final Path buildFile;
+        private final List<DependencyDeclaration> declarations;
+        private final AtomicInteger unresolved;
+        private boolean updated;
+        
+        PendingFile(BuildFileProcessor processor, Path buildFile, List<DependencyDeclaration> declarations) {
+            this.processor = processor;
+            this.buildFile = buildFile;
+            this.declarations = declarations;
+            this.unresolved = new AtomicInteger(lookupKeys().size());
+        }
+        
+        List<String> lookupKeys() {
+            return declarations.stream()
+                .map(DependencyDeclaration::getLookupKey)
+                .distinct()
+                .collect(Collectors.toList());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package de.schimi.core;
+
+/**
+ * A single dependency declaration found while scanning a build file.
+ */
+public class DependencyDeclaration {
+    
+    private final String group;
+    private final String artifact;
+    private final String version;
+    private final int offset;
+    
+    /**
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param version the declared version
+     * @param offset character offset of the declaration in the file, or -1 if unknown
+     */
+    public DependencyDeclaration(String group, String artifact, String version, int offset) {
+        this.group = group;
+        this.artifact = artifact;
+        this.version = version;
+        this.offset = offset;
+    }
+    
+    public String getGroup() {
+        return group;
+    }
+    
+    public String getArtifact() {
+        return artifact;
+    }
+    
+    public String getVersion() {
+        return version;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    /**
+     * @return the dependency coordinate as {@code group:artifact}
+     */
+    public String getCoordinate() {
+        return group + ":" + artifact;
+    }
+    
+    /**
+     * Declarations with the same lookup key share a single version lookup.
+     * @return the coordinate and version as {@code group:artifact:version}
+     */
+    public String getLookupKey() {
+        return getCoordinate() + ":" + version;
+    }
+}
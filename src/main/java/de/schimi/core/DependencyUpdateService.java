@@ -10,7 +10,15 @@ public interface DependencyUpdateService {
     /**
      * Update all supported build files in the current directory and subdirectories.
      */
-    void updateAllBuildFiles();
+    default void updateAllBuildFiles() {
+        updateAllBuildFiles(UpdateOptions.defaults());
+    }
+    
+    /**
+     * Update all supported build files in the current directory and subdirectories.
+     * @param options options for this run
+     */
+    void updateAllBuildFiles(UpdateOptions options);
     
     /**
      * Get list of supported build file processors.
@@ -0,0 +1,48 @@
+package de.schimi.core;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of processing a single build file, reported once its {@code .updated} file is
+ * on disk or once it is clear that it will not be written.
+ */
+public class FileResult {
+    
+    /**
+     * What happened to a build file.
+     */
+    public enum Status {
+        /** The updated build file was saved. */
+        WRITTEN,
+        /** No dependency was updated, so no updated build file was saved. */
+        UNCHANGED,
+        /** Dependencies were updated but not saved because of dry-run mode. */
+        DRY_RUN,
+        /** Reading, updating or saving the build file failed. */
+        FAILED,
+        /** The run deadline passed before all dependencies of the build file were resolved. */
+        DEADLINE_EXCEEDED,
+        /** The run was interrupted before the build file was updated. */
+        CANCELLED
+    }
+    
+    private final Path file;
+    private final Status status;
+    
+    /**
+     * @param file the build file
+     * @param status what happened to the build file
+     */
+    public FileResult(Path file, Status status) {
+        this.file = file;
+        this.status = status;
+    }
+    
+    public Path getFile() {
+        return file;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,106 @@
+package de.schimi.core;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Result sink that writes one JSON object per line and flushes after every result,
+ * so consumers can process results while the run is still in progress.
+ * <p>
+ * A write failure does not interrupt the run: further results are dropped and the
+ * failure is rethrown by {@link #close()}, so the run still fails once all files are updated.
+ */
+public class JsonLinesResultSink implements ResultSink, Closeable {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(JsonLinesResultSink.class);
+    
+    private final Writer writer;
+    private IOException failure;
+    
+    public JsonLinesResultSink(Path outputFile) throws IOException {
+        this(Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8));
+    }
+    
+    public JsonLinesResultSink(Writer writer) {
+        this.writer = writer;
+    }
+    
+    @Override
+    public synchronized void accept(UpdateResult result) {
+        if (failure != null) {
+            return;
+        }
+        JSONObject json = new JSONObject();
+        json.put("type", "dependency");
+        json.put("file", result.getFile().toString());
+        json.put("offset", result.getOffset());
+        json.put("coordinate", result.getCoordinate());
+        json.put("current", result.getCurrentVersion());
+        json.put("candidate", result.getCandidateVersion() != null ? result.getCandidateVersion() : JSONObject.NULL);
+        json.put("decision", result.getDecision().name());
+        json.put("lookupMillis", result.getLookupMillis());
+        writeLine(json, result.getCoordinate());
+    }
+    
+    @Override
+    public synchronized void acceptFile(FileResult result) {
+        if (failure != null) {
+            return;
+        }
+        JSONObject json = new JSONObject();
+        json.put("type", "file");
+        json.put("file", result.getFile().toString());
+        json.put("status", result.getStatus().name());
+        writeLine(json, result.getFile().toString());
+    }
+    
+    @Override
+    public synchronized void acceptSummary(RunSummary summary) {
+        if (failure != null) {
+            return;
+        }
+        JSONObject json = new JSONObject();
+        json.put("type", "summary");
+        json.put("resolvedLookups", summary.getResolvedLookups());
+        json.put("totalLookups", summary.getTotalLookups());
+        json.put("completedFiles", summary.getCompletedFiles());
+        json.put("totalFiles", summary.getTotalFiles());
+        json.put("deadlineExceeded", summary.isDeadlineExceeded());
+        json.put("interrupted", summary.isInterrupted());
+        writeLine(json, "run summary");
+    }
+    
+    private void writeLine(JSONObject json, String description) {
+        try {
+            writer.write(json.toString());
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            LOG.error("Error writing result for {}, dropping all further results: {}", description, e.getMessage());
+            failure = e;
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                throw e;
+            }
+            failure.addSuppressed(e);
+        }
+        if (failure != null) {
+            throw new IOException("Writing results failed", failure);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package de.schimi.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves dependency versions concurrently for a single run, looking up the dependencies
+ * declared most often first so that a run cut short by its deadline completes as many
+ * build files as possible.
+ */
+public class ResolutionScheduler {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(ResolutionScheduler.class);
+    
+    private final VersionChecker versionChecker;
+    private final ResolvedVersions resolvedVersions;
+    private final BiConsumer<String, VersionLookup> onResolved;
+    private final ExecutorService executor;
+    private int resolvedCount;
+    private boolean cancelled;
+    
+    /**
+     * @param versionChecker the version checker used for lookups
+     * @param threads number of concurrent lookups
+     * @param resolvedVersions receives every completed lookup
+     * @param onResolved called with the lookup key and outcome of each completed lookup, after it has been recorded
+     */
+    public ResolutionScheduler(VersionChecker versionChecker, int threads, ResolvedVersions resolvedVersions,
+                               BiConsumer<String, VersionLookup> onResolved) {
+        this.versionChecker = versionChecker;
+        this.resolvedVersions = resolvedVersions;
+        this.onResolved = onResolved;
+        // Daemon threads, so a lookup still running after cancellation cannot keep the JVM alive
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dependency-resolver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Schedule one lookup per distinct lookup key, ordered by declaration count.
+     * Keys with the same count are looked up in scan order.
+     * @param declarations all declarations found by the scan
+     * @param deadline the instant after which lookups are abandoned, or null for no deadline
+     * @return number of lookups scheduled
+     */
+    public int start(List<DependencyDeclaration> declarations, Instant deadline) {
+        Map<String, List<DependencyDeclaration>> byLookupKey = declarations.stream()
+            .collect(Collectors.groupingBy(DependencyDeclaration::getLookupKey, LinkedHashMap::new, Collectors.toList()));
+        List<List<DependencyDeclaration>> ordered = new ArrayList<>(byLookupKey.values());
+        ordered.sort(Comparator.comparingInt((List<DependencyDeclaration> shared) -> shared.size()).reversed());
+        
+        for (List<DependencyDeclaration> shared : ordered) {
+            DependencyDeclaration declaration = shared.get(0);
+            executor.execute(() -> resolve(declaration, deadline));
+        }
+        executor.shutdown();
+        return ordered.size();
+    }
+    
+    private void resolve(DependencyDeclaration declaration, Instant deadline) {
+        long lookupStart = System.nanoTime();
+        String candidateVersion = null;
+        boolean timedOut = false;
+        try {
+            candidateVersion = findNewerMinorVersion(declaration, deadline);
+        } catch (RuntimeException e) {
+            timedOut = deadline != null && !Instant.now().isBefore(deadline);
+            if (!timedOut) {
+                LOG.error("Error resolving {}: {}", declaration.getLookupKey(), e.getMessage());
+            }
+        } finally {
+            // A failed lookup counts as resolved to no newer version, so updating its file never
+            // looks it up again; only lookups cut off by the deadline stay unresolved
+            if (!timedOut) {
+                complete(declaration, new VersionLookup(candidateVersion,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lookupStart)));
+            }
+        }
+    }
+    
+    private String findNewerMinorVersion(DependencyDeclaration declaration, Instant deadline) {
+        if (deadline != null && versionChecker instanceof DeadlineAwareVersionChecker) {
+            return ((DeadlineAwareVersionChecker) versionChecker).findNewerMinorVersion(
+                declaration.getGroup(), declaration.getArtifact(), declaration.getVersion(), deadline);
+        }
+        return versionChecker.findNewerMinorVersion(declaration.getGroup(), declaration.getArtifact(), declaration.getVersion());
+    }
+    
+    private synchronized void complete(DependencyDeclaration declaration, VersionLookup lookup) {
+        if (cancelled) {
+            return;
+        }
+        resolvedCount++;
+        resolvedVersions.record(declaration.getLookupKey(), lookup);
+        onResolved.accept(declaration.getLookupKey(), lookup);
+    }
+    
+    /**
+     * @return number of lookups completed before cancellation
+     */
+    public synchronized int getResolvedCount() {
+        return resolvedCount;
+    }
+    
+    /**
+     * Cancel all outstanding lookups. Lookups that have not started are dropped; running lookups
+     * are interrupted, and deadline-aware ones time out at the deadline. Nothing is recorded and
+     * the resolved callback is not invoked after this returns.
+     * @return number of lookups that had not started yet
+     */
+    public int cancel() {
+        synchronized (this) {
+            cancelled = true;
+        }
+        return executor.shutdownNow().size();
+    }
+}
@@ -0,0 +1,49 @@
+package de.schimi.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version lookups completed during a single run, handed to the processors through
+ * {@link UpdateOptions} so that updating a resolved build file needs no further lookups.
+ */
+public class ResolvedVersions {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(ResolvedVersions.class);
+    
+    private final Map<String, VersionLookup> lookups = new ConcurrentHashMap<>();
+    
+    /**
+     * Get a completed lookup.
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param currentVersion the current version
+     * @return the completed lookup, or null if the dependency has not been resolved
+     */
+    public VersionLookup get(String group, String artifact, String currentVersion) {
+        return lookups.get(group + ":" + artifact + ":" + currentVersion);
+    }
+    
+    /**
+     * Get a completed lookup, treating a dependency the run has not resolved as having no newer version.
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param currentVersion the current version
+     * @return the completed lookup, or a lookup without candidate version
+     */
+    public VersionLookup lookup(String group, String artifact, String currentVersion) {
+        VersionLookup resolved = get(group, artifact, currentVersion);
+        if (resolved == null) {
+            LOG.warn("{}:{}:{} was not resolved in this run, leaving it unchanged.", group, artifact, currentVersion);
+            return new VersionLookup(null, 0);
+        }
+        return resolved;
+    }
+    
+    void record(String lookupKey, VersionLookup lookup) {
+        lookups.put(lookupKey, lookup);
+    }
+}
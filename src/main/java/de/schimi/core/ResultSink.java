@@ -0,0 +1,35 @@
+package de.schimi.core;
+
+/**
+ * Receives the result of each evaluated dependency as soon as it is resolved, and the
+ * result of each build file once it has been written or skipped.
+ * Implementations must be safe to call from multiple threads and must not throw,
+ * so that a reporting failure never prevents a build file from being updated.
+ */
+public interface ResultSink {
+    
+    /**
+     * Sink that discards all results.
+     */
+    ResultSink NONE = result -> { };
+    
+    /**
+     * Report the result of evaluating a single dependency.
+     * @param result the update result
+     */
+    void accept(UpdateResult result);
+    
+    /**
+     * Report what happened to a build file. Reported after the dependency results of the file.
+     * @param result the file result
+     */
+    default void acceptFile(FileResult result) {
+    }
+    
+    /**
+     * Report the progress of the run once it has ended.
+     * @param summary the run summary
+     */
+    default void acceptSummary(RunSummary summary) {
+    }
+}
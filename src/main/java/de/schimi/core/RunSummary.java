@@ -0,0 +1,56 @@
+package de.schimi.core;
+
+/**
+ * Progress of a complete update run, reported once the run ends.
+ */
+public class RunSummary {
+    
+    private final int resolvedLookups;
+    private final int totalLookups;
+    private final int completedFiles;
+    private final int totalFiles;
+    private final boolean deadlineExceeded;
+    private final boolean interrupted;
+    
+    /**
+     * @param resolvedLookups number of distinct version lookups completed
+     * @param totalLookups number of distinct version lookups scheduled
+     * @param completedFiles number of build files whose dependencies were all resolved and processed
+     * @param totalFiles number of build files found
+     * @param deadlineExceeded whether the run deadline passed before all build files were processed
+     * @param interrupted whether the run was interrupted before all build files were processed
+     */
+    public RunSummary(int resolvedLookups, int totalLookups, int completedFiles, int totalFiles,
+                      boolean deadlineExceeded, boolean interrupted) {
+        this.resolvedLookups = resolvedLookups;
+        this.totalLookups = totalLookups;
+        this.completedFiles = completedFiles;
+        this.totalFiles = totalFiles;
+        this.deadlineExceeded = deadlineExceeded;
+        this.interrupted = interrupted;
+    }
+    
+    public int getResolvedLookups() {
+        return resolvedLookups;
+    }
+    
+    public int getTotalLookups() {
+        return totalLookups;
+    }
+    
+    public int getCompletedFiles() {
+        return completedFiles;
+    }
+    
+    public int getTotalFiles() {
+        return totalFiles;
+    }
+    
+    public boolean isDeadlineExceeded() {
+        return deadlineExceeded;
+    }
+    
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+}
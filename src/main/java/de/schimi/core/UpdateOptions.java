@@ -0,0 +1,94 @@
+package de.schimi.core;
+
+import java.time.Instant;
+
+/**
+ * Options controlling a single update run.
+ */
+public class UpdateOptions {
+    
+    private static final UpdateOptions DEFAULTS = new UpdateOptions(false, ResultSink.NONE, null, null);
+    
+    private final boolean dryRun;
+    private final ResultSink resultSink;
+    private final Instant deadline;
+    private final ResolvedVersions resolvedVersions;
+    
+    private UpdateOptions(boolean dryRun, ResultSink resultSink, Instant deadline, ResolvedVersions resolvedVersions) {
+        this.dryRun = dryRun;
+        this.resultSink = resultSink;
+        this.deadline = deadline;
+        this.resolvedVersions = resolvedVersions;
+    }
+    
+    /**
+     * @return options that write updated files, discard results and have no deadline
+     */
+    public static UpdateOptions defaults() {
+        return DEFAULTS;
+    }
+    
+    /**
+     * @param dryRun if true, dependencies are evaluated and reported but no files are written
+     * @return a copy of these options with the given dry-run setting
+     */
+    public UpdateOptions withDryRun(boolean dryRun) {
+        return new UpdateOptions(dryRun, resultSink, deadline, resolvedVersions);
+    }
+    
+    /**
+     * @param resultSink the sink receiving the result of every evaluated dependency
+     * @return a copy of these options with the given result sink
+     */
+    public UpdateOptions withResultSink(ResultSink resultSink) {
+        return new UpdateOptions(dryRun, resultSink, deadline, resolvedVersions);
+    }
+    
+    /**
+     * @param deadline the instant after which outstanding lookups are cancelled, or null for no deadline
+     * @return a copy of these options with the given deadline
+     */
+    public UpdateOptions withDeadline(Instant deadline) {
+        return new UpdateOptions(dryRun, resultSink, deadline, resolvedVersions);
+    }
+    
+    /**
+     * @param resolvedVersions versions resolved by the current run
+     * @return a copy of these options that looks versions up in the given run only
+     */
+    UpdateOptions withResolvedVersions(ResolvedVersions resolvedVersions) {
+        return new UpdateOptions(dryRun, resultSink, deadline, resolvedVersions);
+    }
+    
+    /**
+     * Look up a newer minor version for a dependency while updating a build file.
+     * <p>
+     * Outside a run of {@link DependencyUpdateService}, the dependency is looked up with the given
+     * version checker. Within a run, only the versions resolved by the run are used: a dependency
+     * the run did not resolve, for example because it was added to the file after the run scanned
+     * it, is left unchanged instead of being looked up without regard to the run deadline.
+     * @param versionChecker the version checker used outside a run
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param currentVersion the current version
+     * @return the lookup outcome
+     */
+    public VersionLookup lookupVersion(VersionChecker versionChecker, String group, String artifact, String currentVersion) {
+        if (resolvedVersions == null) {
+            return VersionLookup.perform(versionChecker, group, artifact, currentVersion);
+        }
+        return resolvedVersions.lookup(group, artifact, currentVersion);
+    }
+    
+    public boolean isDryRun() {
+        return dryRun;
+    }
+    
+    public ResultSink getResultSink() {
+        return resultSink;
+    }
+    
+    public Instant getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,79 @@
+package de.schimi.core;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of evaluating a single dependency declaration in a build file.
+ */
+public class UpdateResult {
+    
+    /**
+     * What the processor decided to do with a dependency.
+     */
+    public enum Decision {
+        /** A newer minor version was found and the declaration is updated. */
+        UPDATE,
+        /** No newer minor version was found or the dependency is already up-to-date. */
+        SKIP,
+        /** The run deadline passed before this dependency was resolved. */
+        DEADLINE_EXCEEDED,
+        /** The run was interrupted before this dependency was resolved. */
+        CANCELLED
+    }
+    
+    private final Path file;
+    private final int offset;
+    private final String coordinate;
+    private final String currentVersion;
+    private final String candidateVersion;
+    private final Decision decision;
+    private final long lookupMillis;
+    
+    /**
+     * @param file the build file containing the declaration
+     * @param offset character offset of the declaration in the file, or -1 if unknown
+     * @param coordinate the dependency coordinate as {@code group:artifact}
+     * @param currentVersion the declared version
+     * @param candidateVersion the newer version found, or null if none
+     * @param decision the decision taken for this dependency
+     * @param lookupMillis time spent looking up the candidate version in milliseconds
+     */
+    public UpdateResult(Path file, int offset, String coordinate, String currentVersion,
+                        String candidateVersion, Decision decision, long lookupMillis) {
+        this.file = file;
+        this.offset = offset;
+        this.coordinate = coordinate;
+        this.currentVersion = currentVersion;
+        this.candidateVersion = candidateVersion;
+        this.decision = decision;
+        this.lookupMillis = lookupMillis;
+    }
+    
+    public Path getFile() {
+        return file;
+    }
+    
+    public int getOffset() {
+        return offset;
+    }
+    
+    public String getCoordinate() {
+        return coordinate;
+    }
+    
+    public String getCurrentVersion() {
+        return currentVersion;
+    }
+    
+    public String getCandidateVersion() {
+        return candidateVersion;
+    }
+    
+    public Decision getDecision() {
+        return decision;
+    }
+    
+    public long getLookupMillis() {
+        return lookupMillis;
+    }
+}
@@ -0,0 +1,43 @@
+package de.schimi.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of looking up a newer minor version for a dependency.
+ */
+public class VersionLookup {
+    
+    private final String candidateVersion;
+    private final long lookupMillis;
+    
+    /**
+     * @param candidateVersion the newer version found, or null if none
+     * @param lookupMillis time spent on the lookup in milliseconds
+     */
+    public VersionLookup(String candidateVersion, long lookupMillis) {
+        this.candidateVersion = candidateVersion;
+        this.lookupMillis = lookupMillis;
+    }
+    
+    /**
+     * Look up a newer minor version and measure how long the lookup takes.
+     * @param versionChecker the version checker to use
+     * @param group the group/organization ID
+     * @param artifact the artifact ID
+     * @param currentVersion the current version
+     * @return the timed lookup
+     */
+    public static VersionLookup perform(VersionChecker versionChecker, String group, String artifact, String currentVersion) {
+        long lookupStart = System.nanoTime();
+        String candidateVersion = versionChecker.findNewerMinorVersion(group, artifact, currentVersion);
+        return new VersionLookup(candidateVersion, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lookupStart));
+    }
+    
+    public String getCandidateVersion() {
+        return candidateVersion;
+    }
+    
+    public long getLookupMillis() {
+        return lookupMillis;
+    }
+}
@@ -2,13 +2,19 @@ package de.schimi.gradle;
 
 import de.schimi.core.BuildFileProcessor;
 import de.schimi.core.DefaultFileFinder;
+import de.schimi.core.DependencyDeclaration;
 import de.schimi.core.FileFinder;
+import de.schimi.core.FileResult;
+import de.schimi.core.UpdateOptions;
+import de.schimi.core.UpdateResult;
 import de.schimi.core.VersionChecker;
+import de.schimi.core.VersionLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,8 +32,12 @@ public class GradleBuildFileProcessor implements BuildFileProcessor {
     private final FileFinder fileFinder;
     
     public GradleBuildFileProcessor(VersionChecker versionChecker) {
+        this(versionChecker, new DefaultFileFinder());
+    }
+    
+    public GradleBuildFileProcessor(VersionChecker versionChecker, FileFinder fileFinder) {
         this.versionChecker = versionChecker;
-        this.fileFinder = new DefaultFileFinder();
+        this.fileFinder = fileFinder;
     }
     
     @Override
@@ -43,7 +53,22 @@ public class GradleBuildFileProcessor implements BuildFileProcessor {
     }
     
     @Override
-    public void updateBuildFile(Path gradleFile) {
+    public List<DependencyDeclaration> findDependencies(Path gradleFile) {
+        try {
+            Matcher matcher = DEPENDENCY_PATTERN.matcher(Files.readString(gradleFile));
+            List<DependencyDeclaration> declarations = new ArrayList<>();
+            while (matcher.find()) {
+                declarations.add(new DependencyDeclaration(matcher.group(1), matcher.group(2), matcher.group(3), matcher.start()));
+            }
+            return declarations;
+        } catch (Exception e) {
+            LOG.error("Error reading file {}: {}", gradleFile, e.getMessage());
+            return List.of();
+        }
+    }
+    
+    @Override
+    public void updateBuildFile(Path gradleFile, UpdateOptions options) {
         try {
             String originalContent = Files.readString(gradleFile);
             Matcher matcher = DEPENDENCY_PATTERN.matcher(originalContent);
@@ -54,22 +79,35 @@ public class GradleBuildFileProcessor implements BuildFileProcessor {
                 String artifact = matcher.group(2);
                 String currentVersion = matcher.group(3);
 
-                String updatedVersion = versionChecker.findNewerMinorVersion(group, artifact, currentVersion);
+                VersionLookup lookup = options.lookupVersion(versionChecker, group, artifact, currentVersion);
+                String updatedVersion = lookup.getCandidateVersion();
+                UpdateResult.Decision decision;
                 if (updatedVersion != null && !updatedVersion.equals(currentVersion)) {
                     LOG.info("Updating {}:{} from {} to {}", group, artifact, currentVersion, updatedVersion);
                     String replacement = "'" + group + ":" + artifact + ":" + updatedVersion + "'";
                     matcher.appendReplacement(newContent, Matcher.quoteReplacement(replacement));
+                    decision = UpdateResult.Decision.UPDATE;
                 } else {
                     matcher.appendReplacement(newContent, Matcher.quoteReplacement(matcher.group(0)));
                     LOG.info("Skipping " + group + ":" + artifact + " as no newer minor version found or already up-to-date.");
+                    decision = UpdateResult.Decision.SKIP;
                 }
+                options.getResultSink().accept(new UpdateResult(gradleFile, matcher.start(), group + ":" + artifact,
+                    currentVersion, updatedVersion, decision, lookup.getLookupMillis()));
             }
             matcher.appendTail(newContent);
             String newFileName = gradleFile.getFileName().toString() + ".updated";
+            if (options.isDryRun()) {
+                LOG.info("Dry run: not saving {} as {}", gradleFile, newFileName);
+                options.getResultSink().acceptFile(new FileResult(gradleFile, FileResult.Status.DRY_RUN));
+                return;
+            }
             Files.writeString(Path.of(newFileName), newContent.toString());
             LOG.info("Updated file {} and saved as {}", gradleFile, newFileName);
+            options.getResultSink().acceptFile(new FileResult(gradleFile, FileResult.Status.WRITTEN));
         } catch (Exception e) {
             LOG.error("Error updating file {}: {}", gradleFile, e.getMessage());
+            options.getResultSink().acceptFile(new FileResult(gradleFile, FileResult.Status.FAILED));
         }
     }
     
@@ -2,8 +2,13 @@ package de.schimi.maven;
 
 import de.schimi.core.BuildFileProcessor;
 import de.schimi.core.DefaultFileFinder;
+import de.schimi.core.DependencyDeclaration;
 import de.schimi.core.FileFinder;
+import de.schimi.core.FileResult;
+import de.schimi.core.UpdateOptions;
+import de.schimi.core.UpdateResult;
 import de.schimi.core.VersionChecker;
+import de.schimi.core.VersionLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -19,6 +24,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,27 +55,44 @@ public class MavenBuildFileProcessor implements BuildFileProcessor {
     }
     
     @Override
-    public void updateBuildFile(Path pomFile) {
+    public List<DependencyDeclaration> findDependencies(Path pomFile) {
         try {
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            Document doc = dBuilder.parse(pomFile.toFile());
-            doc.getDocumentElement().normalize();
-            
-            boolean hasUpdates = false;
-            
-            // Process dependencies in <dependencies> section
-            hasUpdates |= processDependencies(doc.getElementsByTagName("dependency"));
-            
-            // Process dependencies in <dependencyManagement> section
-            NodeList dependencyManagement = doc.getElementsByTagName("dependencyManagement");
-            if (dependencyManagement.getLength() > 0) {
-                Element dmElement = (Element) dependencyManagement.item(0);
-                NodeList dependencies = dmElement.getElementsByTagName("dependency");
-                hasUpdates |= processDependencies(dependencies);
+            Document doc = parse(pomFile);
+            NodeList dependencies = doc.getElementsByTagName("dependency");
+            List<DependencyDeclaration> declarations = new ArrayList<>();
+            for (int i = 0; i < dependencies.getLength(); i++) {
+                Node dependency = dependencies.item(i);
+                if (dependency.getNodeType() == Node.ELEMENT_NODE) {
+                    Element depElement = (Element) dependency;
+                    
+                    String groupId = getElementValue(depElement, "groupId");
+                    String artifactId = getElementValue(depElement, "artifactId");
+                    String version = getElementValue(depElement, "version");
+                    
+                    if (isUpdatable(groupId, artifactId, version)) {
+                        declarations.add(new DependencyDeclaration(groupId, artifactId, version, -1));
+                    }
+                }
             }
+            return declarations;
+        } catch (Exception e) {
+            LOG.error("Error reading file {}: {}", pomFile, e.getMessage());
+            return List.of();
+        }
+    }
+    
+    @Override
+    public void updateBuildFile(Path pomFile, UpdateOptions options) {
+        try {
+            Document doc = parse(pomFile);
+            
+            // Covers both the <dependencies> and the <dependencyManagement> sections
+            boolean hasUpdates = processDependencies(pomFile, doc.getElementsByTagName("dependency"), options);
             
-            if (hasUpdates) {
+            if (hasUpdates && options.isDryRun()) {
+                LOG.info("Dry run: not saving updates for {}", pomFile);
+                options.getResultSink().acceptFile(new FileResult(pomFile, FileResult.Status.DRY_RUN));
+            } else if (hasUpdates) {
                 // Write updated pom.xml
                 TransformerFactory transformerFactory = TransformerFactory.newInstance();
                 Transformer transformer = transformerFactory.newTransformer();
@@ -80,16 +103,31 @@ public class MavenBuildFileProcessor implements BuildFileProcessor {
                 transformer.transform(source, result);
                 
                 LOG.info("Updated file {} and saved as {}", pomFile, newFileName);
+                options.getResultSink().acceptFile(new FileResult(pomFile, FileResult.Status.WRITTEN));
             } else {
                 LOG.info("No updates needed for {}", pomFile);
+                options.getResultSink().acceptFile(new FileResult(pomFile, FileResult.Status.UNCHANGED));
             }
             
         } catch (Exception e) {
             LOG.error("Error updating file {}: {}", pomFile, e.getMessage());
+            options.getResultSink().acceptFile(new FileResult(pomFile, FileResult.Status.FAILED));
         }
     }
     
-    private boolean processDependencies(NodeList dependencies) {
+    private Document parse(Path pomFile) throws Exception {
+        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
+        Document doc = dBuilder.parse(pomFile.toFile());
+        doc.getDocumentElement().normalize();
+        return doc;
+    }
+    
+    private boolean isUpdatable(String groupId, String artifactId, String version) {
+        return groupId != null && artifactId != null && version != null && !version.contains("${");
+    }
+    
+    private boolean processDependencies(Path pomFile, NodeList dependencies, UpdateOptions options) {
         boolean hasUpdates = false;
         
         for (int i = 0; i < dependencies.getLength(); i++) {
@@ -101,15 +139,22 @@ public class MavenBuildFileProcessor implements BuildFileProcessor {
                 String artifactId = getElementValue(depElement, "artifactId");
                 String currentVersion = getElementValue(depElement, "version");
                 
-                if (groupId != null && artifactId != null && currentVersion != null && !currentVersion.contains("${")) {
-                    String updatedVersion = versionChecker.findNewerMinorVersion(groupId, artifactId, currentVersion);
+                if (isUpdatable(groupId, artifactId, currentVersion)) {
+                    VersionLookup lookup = options.lookupVersion(versionChecker, groupId, artifactId, currentVersion);
+                    String updatedVersion = lookup.getCandidateVersion();
+                    UpdateResult.Decision decision;
                     if (updatedVersion != null && !updatedVersion.equals(currentVersion)) {
                         LOG.info("Updating {}:{} from {} to {}", groupId, artifactId, currentVersion, updatedVersion);
                         setElementValue(depElement, "version", updatedVersion);
                         hasUpdates = true;
+                        decision = UpdateResult.Decision.UPDATE;
                     } else {
                         LOG.info("Skipping {}:{} as no newer minor version found or already up-to-date.", groupId, artifactId);
+                        decision = UpdateResult.Decision.SKIP;
                     }
+                    // The DOM does not track source positions, so no offset is reported for pom.xml files
+                    options.getResultSink().accept(new UpdateResult(pomFile, -1, groupId + ":" + artifactId,
+                        currentVersion, updatedVersion, decision, lookup.getLookupMillis()));
                 }
             }
         }
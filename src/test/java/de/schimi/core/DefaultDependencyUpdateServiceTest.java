@@ -1,6 +1,19 @@
 package de.schimi.core;
 
+import de.schimi.gradle.GradleBuildFileProcessor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -9,6 +22,9 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class DefaultDependencyUpdateServiceTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void testServiceCreatesCorrectProcessors() {
         DefaultDependencyUpdateService service = new DefaultDependencyUpdateService();
@@ -34,4 +50,222 @@ public class DefaultDependencyUpdateServiceTest {
         // This should not throw an exception even if no build files are found
         assertDoesNotThrow(() -> service.updateAllBuildFiles());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeadlineWritesOnlyFullyResolvedFiles() throws Exception {
+        Path fastFile = Files.writeString(tempDir.resolve("fast.gradle"), "implementation 'org.slf4j:slf4j-api:2.0.13'\n");
+        Path slowFile = Files.writeString(tempDir.resolve("slow.gradle"),
+            "implementation 'org.slf4j:slf4j-api:2.0.13'\nimplementation 'org.example:slow:1.0.0'\n");
+        CountDownLatch fastFileDone = new CountDownLatch(1);
+        // The slow lookup only starts once the fast file is done, then blocks until it is cancelled
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            if (artifact.equals("slow")) {
+                try {
+                    fastFileDone.await();
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+            return "2.1.0";
+        };
+        // Processors must only use the versions resolved by the service
+        VersionChecker unusedVersionChecker = (group, artifact, version) -> {
+            throw new AssertionError("Should not look up " + group + ":" + artifact + " while updating");
+        };
+        DefaultDependencyUpdateService service = new DefaultDependencyUpdateService(versionChecker,
+            List.of(new GradleBuildFileProcessor(unusedVersionChecker, pattern -> List.of(fastFile, slowFile))));
+        List<UpdateResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<FileResult> fileResults = Collections.synchronizedList(new ArrayList<>());
+        List<RunSummary> summaries = new ArrayList<>();
+        ResultSink resultSink = new ResultSink() {
+            @Override
+            public void accept(UpdateResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void acceptFile(FileResult result) {
+                fileResults.add(result);
+                fastFileDone.countDown();
+            }
+
+            @Override
+            public void acceptSummary(RunSummary summary) {
+                summaries.add(summary);
+            }
+        };
+
+        try {
+            // The deadline only bounds the blocked slow lookup, so it can leave the fast file ample time
+            service.updateAllBuildFiles(UpdateOptions.defaults()
+                .withResultSink(resultSink)
+                .withDeadline(Instant.now().plusSeconds(2)));
+
+            assertEquals("implementation 'org.slf4j:slf4j-api:2.1.0'\n", Files.readString(Path.of("fast.gradle.updated")));
+            assertFalse(Files.exists(Path.of("slow.gradle.updated")), "Should not write a partially resolved file");
+            assertEquals(3, results.size(), "Should report every declaration once");
+
+            // The shared dependency is reported for both files as soon as its lookup completes
+            UpdateResult fast = results.get(0);
+            assertEquals(fastFile, fast.getFile());
+            assertEquals(UpdateResult.Decision.UPDATE, fast.getDecision());
+
+            UpdateResult resolvedInSlowFile = results.get(1);
+            assertEquals(slowFile, resolvedInSlowFile.getFile());
+            assertEquals("org.slf4j:slf4j-api", resolvedInSlowFile.getCoordinate());
+            assertEquals("2.1.0", resolvedInSlowFile.getCandidateVersion());
+            assertEquals(UpdateResult.Decision.UPDATE, resolvedInSlowFile.getDecision());
+
+            UpdateResult unresolved = results.get(2);
+            assertEquals("org.example:slow", unresolved.getCoordinate());
+            assertNull(unresolved.getCandidateVersion());
+            assertEquals(UpdateResult.Decision.DEADLINE_EXCEEDED, unresolved.getDecision());
+
+            assertEquals(2, fileResults.size(), "Should report every file once");
+            assertEquals(fastFile, fileResults.get(0).getFile());
+            assertEquals(FileResult.Status.WRITTEN, fileResults.get(0).getStatus());
+            assertEquals(slowFile, fileResults.get(1).getFile());
+            assertEquals(FileResult.Status.DEADLINE_EXCEEDED, fileResults.get(1).getStatus());
+
+            assertEquals(1, summaries.size(), "Should report the run summary once");
+            RunSummary summary = summaries.get(0);
+            assertEquals(1, summary.getResolvedLookups());
+            assertEquals(2, summary.getTotalLookups());
+            assertEquals(1, summary.getCompletedFiles());
+            assertEquals(2, summary.getTotalFiles());
+            assertTrue(summary.isDeadlineExceeded());
+            assertFalse(summary.isInterrupted());
+        } finally {
+            Files.deleteIfExists(Path.of("fast.gradle.updated"));
+            Files.deleteIfExists(Path.of("slow.gradle.updated"));
+        }
+    }
+
+    @Test
+    void testInterruptionIsReportedAsCancelled() throws Exception {
+        Path buildFile = Files.writeString(tempDir.resolve("interrupted.gradle"), "implementation 'org.example:slow:1.0.0'\n");
+        CountDownLatch started = new CountDownLatch(1);
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        DefaultDependencyUpdateService service = new DefaultDependencyUpdateService(versionChecker,
+            List.of(new GradleBuildFileProcessor(versionChecker, pattern -> List.of(buildFile))));
+        List<UpdateResult> results = Collections.synchronizedList(new ArrayList<>());
+        List<FileResult> fileResults = Collections.synchronizedList(new ArrayList<>());
+        List<RunSummary> summaries = Collections.synchronizedList(new ArrayList<>());
+        ResultSink resultSink = new ResultSink() {
+            @Override
+            public void accept(UpdateResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void acceptFile(FileResult result) {
+                fileResults.add(result);
+            }
+
+            @Override
+            public void acceptSummary(RunSummary summary) {
+                summaries.add(summary);
+            }
+        };
+
+        Thread run = new Thread(() -> service.updateAllBuildFiles(UpdateOptions.defaults().withResultSink(resultSink)));
+        run.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        run.interrupt();
+        run.join(5000);
+
+        assertFalse(run.isAlive(), "Should stop when interrupted");
+        assertFalse(Files.exists(Path.of("interrupted.gradle.updated")));
+        assertEquals(1, results.size());
+        assertEquals(UpdateResult.Decision.CANCELLED, results.get(0).getDecision());
+        assertEquals(1, fileResults.size());
+        assertEquals(FileResult.Status.CANCELLED, fileResults.get(0).getStatus());
+        RunSummary summary = summaries.get(0);
+        assertTrue(summary.isInterrupted());
+        assertFalse(summary.isDeadlineExceeded(), "Should not report an interruption as deadline exceeded");
+    }
+
+    @Test
+    void testEveryRunLooksDependenciesUpAgain() throws Exception {
+        Path buildFile = Files.writeString(tempDir.resolve("rerun.gradle"),
+            "implementation 'org.slf4j:slf4j-api:2.0.13'\n");
+        AtomicInteger lookups = new AtomicInteger();
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            lookups.incrementAndGet();
+            return null;
+        };
+        DefaultDependencyUpdateService service = new DefaultDependencyUpdateService(versionChecker,
+            List.of(new GradleBuildFileProcessor(versionChecker, pattern -> List.of(buildFile))));
+
+        try {
+            service.updateAllBuildFiles(UpdateOptions.defaults().withDryRun(true));
+            service.updateAllBuildFiles(UpdateOptions.defaults().withDryRun(true));
+
+            assertEquals(2, lookups.get(), "Should not reuse lookups from a previous run");
+        } finally {
+            Files.deleteIfExists(Path.of("rerun.gradle.updated"));
+        }
+    }
+
+    @Test
+    void testDependencyAddedAfterScanIsLeftUnchanged() throws Exception {
+        Path buildFile = Files.writeString(tempDir.resolve("changed.gradle"),
+            "implementation 'org.slf4j:slf4j-api:2.0.13'\nimplementation 'org.example:late:1.0.0'\n");
+        List<String> lookups = Collections.synchronizedList(new ArrayList<>());
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            lookups.add(group + ":" + artifact);
+            return artifact.equals("late") ? "1.1.0" : "2.1.0";
+        };
+        GradleBuildFileProcessor gradleProcessor = new GradleBuildFileProcessor(versionChecker, pattern -> List.of(buildFile));
+        // Simulates the late dependency being added to the file between the scan and the update
+        BuildFileProcessor processor = new BuildFileProcessor() {
+            @Override
+            public String getFilePattern() {
+                return gradleProcessor.getFilePattern();
+            }
+
+            @Override
+            public List<Path> findBuildFiles() {
+                return gradleProcessor.findBuildFiles();
+            }
+
+            @Override
+            public List<DependencyDeclaration> findDependencies(Path file) {
+                return gradleProcessor.findDependencies(file).stream()
+                    .filter(declaration -> !declaration.getArtifact().equals("late"))
+                    .collect(Collectors.toList());
+            }
+
+            @Override
+            public void updateBuildFile(Path file, UpdateOptions options) {
+                gradleProcessor.updateBuildFile(file, options);
+            }
+
+            @Override
+            public String getBuildSystemName() {
+                return gradleProcessor.getBuildSystemName();
+            }
+        };
+        DefaultDependencyUpdateService service = new DefaultDependencyUpdateService(versionChecker, List.of(processor));
+
+        try {
+            service.updateAllBuildFiles();
+
+            assertEquals(List.of("org.slf4j:slf4j-api"), lookups, "Should not look up dependencies outside the run");
+            assertEquals("implementation 'org.slf4j:slf4j-api:2.1.0'\nimplementation 'org.example:late:1.0.0'\n",
+                Files.readString(Path.of("changed.gradle.updated")));
+        } finally {
+            Files.deleteIfExists(Path.of("changed.gradle.updated"));
+        }
+    }
+}
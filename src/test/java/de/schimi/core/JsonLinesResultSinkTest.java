@@ -0,0 +1,87 @@
+package de.schimi.core;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the JSON lines result sink.
+ */
+public class JsonLinesResultSinkTest {
+
+    @Test
+    void testWritesOneLinePerResult() {
+        StringWriter writer = new StringWriter();
+        JsonLinesResultSink sink = new JsonLinesResultSink(writer);
+
+        sink.accept(new UpdateResult(Path.of("build.gradle"), 42, "org.slf4j:slf4j-api",
+            "2.0.13", "2.1.0", UpdateResult.Decision.UPDATE, 7));
+        sink.accept(new UpdateResult(Path.of("pom.xml"), -1, "org.json:json",
+            "20240303", null, UpdateResult.Decision.SKIP, 3));
+        sink.acceptFile(new FileResult(Path.of("build.gradle"), FileResult.Status.WRITTEN));
+        sink.acceptSummary(new RunSummary(2, 3, 1, 2, true, false));
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(4, lines.length, "Should write one line per dependency, file and summary");
+
+        JSONObject update = new JSONObject(lines[0]);
+        assertEquals("dependency", update.getString("type"));
+        assertEquals("build.gradle", update.getString("file"));
+        assertEquals(42, update.getInt("offset"));
+        assertEquals("org.slf4j:slf4j-api", update.getString("coordinate"));
+        assertEquals("2.0.13", update.getString("current"));
+        assertEquals("2.1.0", update.getString("candidate"));
+        assertEquals("UPDATE", update.getString("decision"));
+        assertEquals(7L, update.getLong("lookupMillis"));
+
+        JSONObject skip = new JSONObject(lines[1]);
+        assertTrue(skip.isNull("candidate"));
+        assertEquals("SKIP", skip.getString("decision"));
+
+        JSONObject file = new JSONObject(lines[2]);
+        assertEquals("file", file.getString("type"));
+        assertEquals("build.gradle", file.getString("file"));
+        assertEquals("WRITTEN", file.getString("status"));
+
+        JSONObject summary = new JSONObject(lines[3]);
+        assertEquals("summary", summary.getString("type"));
+        assertEquals(2, summary.getInt("resolvedLookups"));
+        assertEquals(3, summary.getInt("totalLookups"));
+        assertEquals(1, summary.getInt("completedFiles"));
+        assertEquals(2, summary.getInt("totalFiles"));
+        assertTrue(summary.getBoolean("deadlineExceeded"));
+        assertFalse(summary.getBoolean("interrupted"));
+    }
+
+    @Test
+    void testWriteFailureDoesNotThrowUntilClose() {
+        Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        JsonLinesResultSink sink = new JsonLinesResultSink(failingWriter);
+        UpdateResult result = new UpdateResult(Path.of("build.gradle"), 0, "org.json:json",
+            "20240303", null, UpdateResult.Decision.SKIP, 0);
+
+        assertDoesNotThrow(() -> sink.accept(result));
+        assertDoesNotThrow(() -> sink.accept(result));
+        IOException failure = assertThrows(IOException.class, sink::close);
+        assertEquals("disk full", failure.getCause().getMessage());
+    }
+}
@@ -0,0 +1,164 @@
+package de.schimi.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the prioritized resolution scheduler.
+ */
+public class ResolutionSchedulerTest {
+
+    @Test
+    void testResolvesMostSharedDependenciesFirst() throws Exception {
+        List<String> lookups = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            lookups.add(group + ":" + artifact + ":" + version);
+            return null;
+        };
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, 1, new ResolvedVersions(), (lookupKey, lookup) -> done.countDown());
+
+        int scheduled = scheduler.start(List.of(
+            new DependencyDeclaration("org.json", "json", "20240303", 0),
+            new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 10),
+            new DependencyDeclaration("org.junit", "junit", "5.10.2", 20),
+            new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 30),
+            new DependencyDeclaration("org.junit", "junit", "5.10.2", 40),
+            new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 50)), null);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, scheduled);
+        assertEquals(List.of("org.slf4j:slf4j-api:2.0.13", "org.junit:junit:5.10.2", "org.json:json:20240303"), lookups);
+        assertEquals(3, scheduler.getResolvedCount(), "Should count every completed lookup");
+    }
+
+    @Test
+    void testCancelStopsOutstandingLookups() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> resolved = Collections.synchronizedList(new ArrayList<>());
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, 1, new ResolvedVersions(), (lookupKey, lookup) -> resolved.add(lookupKey));
+
+        scheduler.start(List.of(
+            new DependencyDeclaration("org.json", "json", "20240303", 0),
+            new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 10)), null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, scheduler.cancel(), "Should drop the lookup that had not started");
+        assertTrue(resolved.isEmpty(), "Should not report lookups completed after cancellation");
+        assertEquals(0, scheduler.getResolvedCount(), "Should not count lookups completed after cancellation");
+    }
+
+    @Test
+    void testFailedLookupsAreRecordedAsResolvedWithoutVersion() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        CountDownLatch crashed = new CountDownLatch(1);
+        ResolvedVersions resolvedVersions = new ResolvedVersions();
+        VersionChecker versionChecker = (group, artifact, version) -> {
+            if (artifact.equals("json")) {
+                throw new IllegalStateException("lookup failed");
+            }
+            throw new LookupCrash();
+        };
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, 1, resolvedVersions, (lookupKey, lookup) -> done.countDown());
+        // The error still ends the resolver thread; catch it there instead of printing it
+        Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> {
+            if (error instanceof LookupCrash) {
+                crashed.countDown();
+            } else if (defaultHandler != null) {
+                defaultHandler.uncaughtException(thread, error);
+            }
+        });
+
+        try {
+            scheduler.start(List.of(
+                new DependencyDeclaration("org.json", "json", "20240303", 0),
+                new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 10)), null);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS), "Should complete lookups that throw");
+            assertTrue(crashed.await(5, TimeUnit.SECONDS), "Should not swallow errors");
+            assertNull(resolvedVersions.get("org.json", "json", "20240303").getCandidateVersion());
+            assertNull(resolvedVersions.get("org.slf4j", "slf4j-api", "2.0.13").getCandidateVersion());
+            assertEquals(2, scheduler.getResolvedCount());
+        } finally {
+            scheduler.cancel();
+            Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+        }
+    }
+
+    @Test
+    void testUsesDeadlineAwareLookupWhenDeadlineIsSet() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        ResolvedVersions resolvedVersions = new ResolvedVersions();
+        Instant deadline = Instant.now().plusSeconds(60);
+        List<Instant> deadlines = Collections.synchronizedList(new ArrayList<>());
+        DeadlineAwareVersionChecker versionChecker = new DeadlineAwareVersionChecker() {
+            @Override
+            public String findNewerMinorVersion(String group, String artifact, String currentVersion) {
+                throw new AssertionError("Should use the deadline-aware lookup");
+            }
+
+            @Override
+            public String findNewerMinorVersion(String group, String artifact, String currentVersion, Instant lookupDeadline) {
+                deadlines.add(lookupDeadline);
+                return "2.1.0";
+            }
+        };
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, 1, resolvedVersions, (lookupKey, lookup) -> done.countDown());
+
+        scheduler.start(List.of(new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 0)), deadline);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(deadline), deadlines);
+        assertEquals("2.1.0", resolvedVersions.get("org.slf4j", "slf4j-api", "2.0.13").getCandidateVersion());
+        scheduler.cancel();
+    }
+
+    @Test
+    void testLookupCutOffByDeadlineStaysUnresolved() throws Exception {
+        List<String> resolved = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch attempted = new CountDownLatch(1);
+        DeadlineAwareVersionChecker versionChecker = new DeadlineAwareVersionChecker() {
+            @Override
+            public String findNewerMinorVersion(String group, String artifact, String currentVersion) {
+                return null;
+            }
+
+            @Override
+            public String findNewerMinorVersion(String group, String artifact, String currentVersion, Instant deadline) {
+                attempted.countDown();
+                throw new IllegalStateException("timed out");
+            }
+        };
+        ResolutionScheduler scheduler = new ResolutionScheduler(versionChecker, 1, new ResolvedVersions(), (lookupKey, lookup) -> resolved.add(lookupKey));
+
+        scheduler.start(List.of(new DependencyDeclaration("org.slf4j", "slf4j-api", "2.0.13", 0)), Instant.now());
+
+        assertTrue(attempted.await(5, TimeUnit.SECONDS));
+        scheduler.cancel();
+        assertTrue(resolved.isEmpty(), "Should not treat a lookup cut off by the deadline as resolved");
+    }
+
+    private static class LookupCrash extends Error {
+        LookupCrash() {
+            super("lookup crashed");
+        }
+    }
+}
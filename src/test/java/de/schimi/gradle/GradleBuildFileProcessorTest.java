@@ -0,0 +1,104 @@
+package de.schimi.gradle;
+
+import de.schimi.core.FileResult;
+import de.schimi.core.ResultSink;
+import de.schimi.core.UpdateOptions;
+import de.schimi.core.UpdateResult;
+import de.schimi.core.VersionChecker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for Gradle build file processor functionality.
+ */
+public class GradleBuildFileProcessorTest {
+
+    private static final String CONTENT = "dependencies {\n"
+        + "    implementation 'org.json:json:20240303'\n"
+        + "    implementation 'org.slf4j:slf4j-api:2.0.13'\n"
+        + "}\n";
+    private static final Path OUTPUT_FILE = Path.of("gradle-processor-test.gradle.updated");
+
+    @TempDir
+    Path tempDir;
+
+    private GradleBuildFileProcessor processor;
+    private Path buildFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        VersionChecker mockVersionChecker = mock(VersionChecker.class);
+        when(mockVersionChecker.findNewerMinorVersion("org.slf4j", "slf4j-api", "2.0.13")).thenReturn("2.1.0");
+        processor = new GradleBuildFileProcessor(mockVersionChecker);
+        buildFile = Files.writeString(tempDir.resolve("gradle-processor-test.gradle"), CONTENT);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(OUTPUT_FILE);
+    }
+
+    @Test
+    void testReportsEveryDependencyInOrder() throws Exception {
+        List<UpdateResult> results = new ArrayList<>();
+
+        processor.updateBuildFile(buildFile, UpdateOptions.defaults().withResultSink(results::add));
+
+        assertEquals(2, results.size(), "Should report every matched dependency");
+        UpdateResult first = results.get(0);
+        assertEquals("org.json:json", first.getCoordinate());
+        assertEquals(UpdateResult.Decision.SKIP, first.getDecision());
+        assertNull(first.getCandidateVersion());
+        assertTrue(CONTENT.startsWith("'org.json:json:20240303'", first.getOffset()));
+
+        UpdateResult second = results.get(1);
+        assertEquals("org.slf4j:slf4j-api", second.getCoordinate());
+        assertEquals("2.0.13", second.getCurrentVersion());
+        assertEquals("2.1.0", second.getCandidateVersion());
+        assertEquals(UpdateResult.Decision.UPDATE, second.getDecision());
+        assertEquals(buildFile, second.getFile());
+        assertEquals(CONTENT.replace("2.0.13", "2.1.0"), Files.readString(OUTPUT_FILE));
+    }
+
+    @Test
+    void testReportsWrittenFileOnlyOnceSaved() {
+        List<FileResult> fileResults = new ArrayList<>();
+        ResultSink resultSink = new ResultSink() {
+            @Override
+            public void accept(UpdateResult result) {
+            }
+
+            @Override
+            public void acceptFile(FileResult result) {
+                assertTrue(Files.exists(OUTPUT_FILE), "Should report the file after saving it");
+                fileResults.add(result);
+            }
+        };
+
+        processor.updateBuildFile(buildFile, UpdateOptions.defaults().withResultSink(resultSink));
+
+        assertEquals(1, fileResults.size());
+        assertEquals(buildFile, fileResults.get(0).getFile());
+        assertEquals(FileResult.Status.WRITTEN, fileResults.get(0).getStatus());
+    }
+
+    @Test
+    void testDryRunReportsButDoesNotWrite() {
+        List<UpdateResult> results = new ArrayList<>();
+
+        processor.updateBuildFile(buildFile, UpdateOptions.defaults().withDryRun(true).withResultSink(results::add));
+
+        assertEquals(UpdateResult.Decision.UPDATE, results.get(1).getDecision());
+        assertFalse(Files.exists(OUTPUT_FILE), "Dry run should not write the updated file");
+    }
+}
@@ -0,0 +1,68 @@
+package de.schimi.gradleupdater;
+
+import de.schimi.core.VersionChecker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Regression test ensuring the legacy Gradle updater produces the same output as before
+ * it was moved onto the core update pipeline.
+ * <p>
+ * {@code legacy.gradle.expected} is the output of the previous, self-contained implementation,
+ * run unmodified on {@code legacy.gradle} with its Maven Central search requests answered by a
+ * stub URL handler. The stub returned the latest versions mocked below, and {@code 31.1-jre}
+ * for guava, which the previous implementation ignored as not a newer minor version.
+ */
+public class GradleUpdateServiceTest {
+
+    private static final Path OUTPUT_FILE = Path.of("legacy.gradle.updated");
+
+    private VersionChecker mockVersionChecker;
+    private Path fixture;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockVersionChecker = mock(VersionChecker.class);
+        when(mockVersionChecker.findNewerMinorVersion("org.slf4j", "slf4j-api", "2.0.13")).thenReturn("2.1.0");
+        when(mockVersionChecker.findNewerMinorVersion("com.google.guava", "guava", "31.1")).thenReturn("31.1");
+        when(mockVersionChecker.findNewerMinorVersion("ch.qos.logback", "logback-classic", "1.4.14")).thenReturn("1.5.6");
+        when(mockVersionChecker.findNewerMinorVersion("org.junit.jupiter", "junit-jupiter", "5.10.2")).thenReturn("5.11.0");
+
+        fixture = Paths.get(getClass().getResource("/fixtures/legacy/legacy.gradle").toURI());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(OUTPUT_FILE);
+    }
+
+    @Test
+    void testLegacyOutputIsByteIdenticalToFixture() throws Exception {
+        GradleUpdateService service = new GradleUpdateService(mockVersionChecker, pattern -> List.of(fixture));
+
+        service.updateAllBuildGradleFiles();
+
+        byte[] expected = Files.readAllBytes(fixture.resolveSibling("legacy.gradle.expected"));
+        assertArrayEquals(expected, Files.readAllBytes(OUTPUT_FILE));
+    }
+
+    @Test
+    void testLegacySearchesForBuildGradleFiles() {
+        GradleUpdateService service = new GradleUpdateService(mockVersionChecker, pattern -> {
+            assertEquals("build.gradle", pattern);
+            return List.of();
+        });
+
+        assertDoesNotThrow(service::updateAllBuildGradleFiles);
+        assertFalse(Files.exists(OUTPUT_FILE));
+    }
+}
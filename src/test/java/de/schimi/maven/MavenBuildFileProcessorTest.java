@@ -1,8 +1,19 @@
 package de.schimi.maven;
 
+import de.schimi.core.FileResult;
+import de.schimi.core.ResultSink;
+import de.schimi.core.UpdateOptions;
+import de.schimi.core.UpdateResult;
 import de.schimi.core.VersionChecker;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -12,6 +23,21 @@ import static org.mockito.Mockito.*;
  */
 public class MavenBuildFileProcessorTest {
 
+    private static final String POM = "<project>\n"
+        + "  <dependencyManagement>\n"
+        + "    <dependencies>\n"
+        + "      <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId><version>2.0.13</version></dependency>\n"
+        + "    </dependencies>\n"
+        + "  </dependencyManagement>\n"
+        + "  <dependencies>\n"
+        + "    <dependency><groupId>org.json</groupId><artifactId>json</artifactId><version>20240303</version></dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+    private static final Path OUTPUT_FILE = Path.of("maven-processor-test.xml.updated");
+
+    @TempDir
+    Path tempDir;
+
     private MavenBuildFileProcessor processor;
     private VersionChecker mockVersionChecker;
 
@@ -21,6 +47,11 @@ public class MavenBuildFileProcessorTest {
         processor = new MavenBuildFileProcessor(mockVersionChecker);
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(OUTPUT_FILE);
+    }
+
     @Test
     void testGetFilePattern() {
         assertEquals("pom.xml", processor.getFilePattern());
@@ -45,4 +76,52 @@ public class MavenBuildFileProcessorTest {
         // We can't guarantee the size since it depends on the working directory
         // but we can ensure the method doesn't throw an exception
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReportsEveryDependencyOnce() throws Exception {
+        when(mockVersionChecker.findNewerMinorVersion("org.slf4j", "slf4j-api", "2.0.13")).thenReturn("2.1.0");
+        Path pomFile = writePom();
+        List<UpdateResult> results = new ArrayList<>();
+
+        processor.updateBuildFile(pomFile, UpdateOptions.defaults().withResultSink(results::add));
+
+        assertEquals(2, results.size(), "Should report each dependency once, including managed ones");
+        UpdateResult managed = results.get(0);
+        assertEquals("org.slf4j:slf4j-api", managed.getCoordinate());
+        assertEquals("2.0.13", managed.getCurrentVersion());
+        assertEquals("2.1.0", managed.getCandidateVersion());
+        assertEquals(UpdateResult.Decision.UPDATE, managed.getDecision());
+        assertEquals(-1, managed.getOffset());
+        assertEquals(pomFile, managed.getFile());
+        assertEquals(UpdateResult.Decision.SKIP, results.get(1).getDecision());
+        assertTrue(Files.readString(OUTPUT_FILE).contains("<version>2.1.0</version>"));
+    }
+
+    @Test
+    void testDryRunReportsButDoesNotWrite() throws Exception {
+        when(mockVersionChecker.findNewerMinorVersion("org.slf4j", "slf4j-api", "2.0.13")).thenReturn("2.1.0");
+        List<UpdateResult> results = new ArrayList<>();
+        List<FileResult> fileResults = new ArrayList<>();
+        ResultSink resultSink = new ResultSink() {
+            @Override
+            public void accept(UpdateResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void acceptFile(FileResult result) {
+                fileResults.add(result);
+            }
+        };
+
+        processor.updateBuildFile(writePom(), UpdateOptions.defaults().withDryRun(true).withResultSink(resultSink));
+
+        assertEquals(UpdateResult.Decision.UPDATE, results.get(0).getDecision());
+        assertEquals(FileResult.Status.DRY_RUN, fileResults.get(0).getStatus());
+        assertFalse(Files.exists(OUTPUT_FILE), "Dry run should not write the updated file");
+    }
+
+    private Path writePom() throws Exception {
+        return Files.writeString(tempDir.resolve("maven-processor-test.xml"), POM);
+    }
+}